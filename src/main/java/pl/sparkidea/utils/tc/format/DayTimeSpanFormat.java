@@ -0,0 +1,98 @@
+package pl.sparkidea.utils.tc.format;
+
+/**
+ * Span between two wall clock times, each in {@code H:MM}, {@code H:MM:SS} or {@code H:MM:SS.mmm} form,
+ * e.g. {@code 08:59:30 - 17:02:10}. The span is not wrapped around midnight, so it can be negative.
+ */
+class DayTimeSpanFormat extends ScanningLineFormat {
+
+    DayTimeSpanFormat() {
+        super("span");
+    }
+
+    @Override
+    long scan(String line) {
+        var separator = line.indexOf('-');
+        if (separator < 0) {
+            return MALFORMED;
+        }
+
+        var startEnd = separator;
+        while (startEnd > 0 && line.charAt(startEnd - 1) == ' ') {
+            startEnd--;
+        }
+
+        var stopStart = separator + 1;
+        while (stopStart < line.length() && line.charAt(stopStart) == ' ') {
+            stopStart++;
+        }
+
+        var start = dayTimeMillis(line, 0, startEnd);
+        var stop = dayTimeMillis(line, stopStart, line.length());
+        if (start < 0 || stop < 0) {
+            return MALFORMED;
+        }
+
+        return stop - start;
+    }
+
+    private static long dayTimeMillis(String line, int from, int to) {
+        var i = from;
+
+        var hoursEnd = digitsEnd(line, i, to, 2);
+        if (hoursEnd == i || hoursEnd == to || line.charAt(hoursEnd) != ':') {
+            return -1;
+        }
+        var hours = number(line, i, hoursEnd);
+        i = hoursEnd + 1;
+
+        var minutesEnd = digitsEnd(line, i, to, 2);
+        if (minutesEnd == i) {
+            return -1;
+        }
+        var minutes = number(line, i, minutesEnd);
+        i = minutesEnd;
+
+        var seconds = 0;
+        var millis = 0;
+        if (i < to && line.charAt(i) == ':') {
+            var secondsEnd = digitsEnd(line, ++i, to, 2);
+            if (secondsEnd == i) {
+                return -1;
+            }
+            seconds = number(line, i, secondsEnd);
+            i = secondsEnd;
+
+            if (i < to && line.charAt(i) == '.') {
+                var millisEnd = digitsEnd(line, ++i, to, 3);
+                if (millisEnd - i != 3) {
+                    return -1;
+                }
+                millis = number(line, i, millisEnd);
+                i = millisEnd;
+            }
+        }
+
+        if (i != to || hours > 23 || minutes > 59 || seconds > 59) {
+            return -1;
+        }
+
+        return hours * HOUR_MS + minutes * MINUTE_MS + seconds * SECOND_MS + millis;
+    }
+
+    private static int digitsEnd(String line, int from, int to, int maxDigits) {
+        var i = from;
+        while (i < to && i - from < maxDigits && isDigit(line.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int number(String line, int from, int to) {
+        var value = 0;
+        for (var i = from; i < to; i++) {
+            value = value * 10 + (line.charAt(i) - '0');
+        }
+        return value;
+    }
+}
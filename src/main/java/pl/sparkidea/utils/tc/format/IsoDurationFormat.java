@@ -0,0 +1,125 @@
+package pl.sparkidea.utils.tc.format;
+
+/**
+ * ISO-8601 duration in the forms accepted by {@link java.time.Duration#parse(CharSequence)}, including per-field
+ * signs and an empty fraction, e.g. {@code PT7H30M}, {@code P1DT-2H} or {@code -PT0.5S}. The result is truncated
+ * to milliseconds the way {@link java.time.Duration#toMillis()} does, durations that do not fit are rejected.
+ */
+class IsoDurationFormat extends ScanningLineFormat {
+
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    IsoDurationFormat() {
+        super("ISO-8601 duration");
+    }
+
+    @Override
+    @SuppressWarnings("java:S3776")
+    long scan(String line) {
+        var length = line.length();
+        var i = 0;
+        var isPositive = true;
+        if (i < length && (line.charAt(i) == '-' || line.charAt(i) == '+')) {
+            isPositive = line.charAt(i) == '+';
+            i++;
+        }
+
+        if (i == length || Character.toUpperCase(line.charAt(i)) != 'P') {
+            return MALFORMED;
+        }
+        i++;
+
+        var millis = 0L;
+        var subMillisSign = 0;
+        var inTimePart = false;
+        var lastUnit = 0;
+        while (i < length) {
+            if (Character.toUpperCase(line.charAt(i)) == 'T') {
+                if (inTimePart) {
+                    return MALFORMED;
+                }
+                inTimePart = true;
+                i++;
+                continue;
+            }
+
+            var isFieldPositive = isPositive;
+            if (line.charAt(i) == '-' || line.charAt(i) == '+') {
+                isFieldPositive = isPositive == (line.charAt(i) == '+');
+                i++;
+            }
+
+            var start = i;
+            var value = 0L;
+            while (i < length && isDigit(line.charAt(i))) {
+                value = appendDigit(value, line.charAt(i));
+                i++;
+            }
+
+            if (i == start || i == length) {
+                return MALFORMED;
+            }
+
+            var hasFraction = false;
+            var fractionMs = 0L;
+            var hasSubMillis = false;
+            if (line.charAt(i) == '.' || line.charAt(i) == ',') {
+                hasFraction = true;
+                var fractionStart = ++i;
+                while (i < length && isDigit(line.charAt(i))) {
+                    if (i - fractionStart < 3) {
+                        fractionMs = fractionMs * 10 + (line.charAt(i) - '0');
+                    } else if (line.charAt(i) != '0') {
+                        hasSubMillis = true;
+                    }
+                    i++;
+                }
+
+                var fractionDigits = i - fractionStart;
+                if (fractionDigits > MAX_FRACTION_DIGITS || i == length) {
+                    return MALFORMED;
+                }
+                for (var d = fractionDigits; d < 3; d++) {
+                    fractionMs *= 10;
+                }
+            }
+
+            var unit = switch (Character.toUpperCase(line.charAt(i))) {
+                case 'D' -> 1;
+                case 'H' -> 2;
+                case 'M' -> 3;
+                case 'S' -> 4;
+                default -> 0;
+            };
+
+            if (unit <= lastUnit || (unit == 1) == inTimePart || (hasFraction && unit != 4)) {
+                return MALFORMED;
+            }
+
+            var fieldMs = switch (unit) {
+                case 1 -> Math.multiplyExact(value, DAY_MS);
+                case 2 -> Math.multiplyExact(value, HOUR_MS);
+                case 3 -> Math.multiplyExact(value, MINUTE_MS);
+                default -> Math.addExact(Math.multiplyExact(value, SECOND_MS), fractionMs);
+            };
+            millis = isFieldPositive ? Math.addExact(millis, fieldMs) : Math.subtractExact(millis, fieldMs);
+            if (hasSubMillis) {
+                subMillisSign = isFieldPositive ? 1 : -1;
+            }
+            lastUnit = unit;
+            i++;
+        }
+
+        if (lastUnit == 0 || (inTimePart && lastUnit < 2)) {
+            return MALFORMED;
+        }
+
+        if (millis > 0 && subMillisSign < 0) {
+            return millis - 1;
+        }
+        if (millis < 0 && subMillisSign > 0) {
+            return millis + 1;
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,12 @@
+package pl.sparkidea.utils.tc.format;
+
+/**
+ * Parses a single, already trimmed input line into a signed amount of milliseconds.
+ * Implementations should not throw from {@link #matches(String)}.
+ */
+public interface LineFormat {
+
+    boolean matches(String line);
+
+    long toMillis(String line);
+}
@@ -0,0 +1,86 @@
+package pl.sparkidea.utils.tc.format;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Selects a built-in format by the first character and shape of the line and parses it in a single pass,
+ * additional formats are consulted in registration order only when the built-in one rejects the line.
+ */
+public class LineFormatDispatcher implements LineFormat {
+
+    private static final ScanningLineFormat SPAN = new DayTimeSpanFormat();
+    private static final ScanningLineFormat PERIOD = new PeriodFormat();
+    private static final ScanningLineFormat ISO_DURATION = new IsoDurationFormat();
+
+    private final LineFormat[] additionalFormats;
+
+    public LineFormatDispatcher(List<LineFormat> additionalFormats) {
+        requireNonNull(additionalFormats, "Additional formats must not be null");
+        this.additionalFormats = additionalFormats.toArray(LineFormat[]::new);
+    }
+
+    public LineFormatDispatcher() {
+        this(List.of());
+    }
+
+    @Override
+    public boolean matches(String line) {
+        var builtIn = builtIn(line);
+        return (builtIn != null && builtIn.parse(line) != ScanningLineFormat.MALFORMED) || additional(line) != null;
+    }
+
+    @Override
+    public long toMillis(String line) {
+        var builtIn = builtIn(line);
+        if (builtIn != null) {
+            var millis = builtIn.parse(line);
+            if (millis != ScanningLineFormat.MALFORMED) {
+                return millis;
+            }
+        }
+
+        var format = additional(line);
+        if (format == null) {
+            throw new IllegalStateException("Unrecognized pattern: [%s]".formatted(line));
+        }
+        return format.toMillis(line);
+    }
+
+    private LineFormat additional(String line) {
+        for (var format : additionalFormats) {
+            if (format.matches(line)) {
+                return format;
+            }
+        }
+
+        return null;
+    }
+
+    private static ScanningLineFormat builtIn(String line) {
+        if (line.isEmpty()) {
+            return null;
+        }
+
+        var first = line.charAt(0);
+        if (first == 'P' || first == 'p' || first == '+') {
+            return ISO_DURATION;
+        }
+
+        if (first == '-') {
+            var second = line.length() > 1 ? line.charAt(1) : 0;
+            return second == 'P' || second == 'p' ? ISO_DURATION : PERIOD;
+        }
+
+        if (first >= '0' && first <= '9') {
+            var i = 1;
+            while (i < line.length() && line.charAt(i) >= '0' && line.charAt(i) <= '9') {
+                i++;
+            }
+            return i < line.length() && line.charAt(i) == ':' ? SPAN : PERIOD;
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,62 @@
+package pl.sparkidea.utils.tc.format;
+
+/**
+ * Compact period such as {@code 5m}, {@code 1h30m} or {@code -2d4h}.
+ */
+class PeriodFormat extends ScanningLineFormat {
+
+    private static final long MONTH_MS = 30L * DAY_MS;
+    private static final long YEAR_MS = 12L * MONTH_MS;
+
+    PeriodFormat() {
+        super("period");
+    }
+
+    @Override
+    long scan(String line) {
+        var length = line.length();
+        var i = 0;
+        var isPositive = true;
+        if (i < length && line.charAt(i) == '-') {
+            isPositive = false;
+            i++;
+        }
+
+        if (i == length) {
+            return MALFORMED;
+        }
+
+        var millis = 0L;
+        while (i < length) {
+            var start = i;
+            var value = 0L;
+            while (i < length && isDigit(line.charAt(i))) {
+                value = appendDigit(value, line.charAt(i));
+                i++;
+            }
+
+            if (i == start || i == length) {
+                return MALFORMED;
+            }
+
+            var unitMs = switch (line.charAt(i)) {
+                case 'y' -> YEAR_MS;
+                case 'M' -> MONTH_MS;
+                case 'd' -> DAY_MS;
+                case 'h' -> HOUR_MS;
+                case 'm' -> MINUTE_MS;
+                case 's' -> SECOND_MS;
+                default -> 0L;
+            };
+
+            if (unitMs == 0L) {
+                return MALFORMED;
+            }
+
+            millis = Math.addExact(millis, Math.multiplyExact(value, unitMs));
+            i++;
+        }
+
+        return isPositive ? millis : -millis;
+    }
+}
@@ -0,0 +1,52 @@
+package pl.sparkidea.utils.tc.format;
+
+/**
+ * Base for formats that validate and parse a line in a single pass. {@link #scan(String)} returns
+ * {@link #MALFORMED} instead of throwing, arithmetic overflow is treated the same way.
+ */
+abstract class ScanningLineFormat implements LineFormat {
+
+    static final long MALFORMED = Long.MIN_VALUE;
+    static final long SECOND_MS = 1000L;
+    static final long MINUTE_MS = 60L * SECOND_MS;
+    static final long HOUR_MS = 60L * MINUTE_MS;
+    static final long DAY_MS = 24L * HOUR_MS;
+
+    private final String name;
+
+    ScanningLineFormat(String name) {
+        this.name = name;
+    }
+
+    abstract long scan(String line);
+
+    final long parse(String line) {
+        try {
+            return scan(line);
+        } catch (ArithmeticException e) {
+            return MALFORMED;
+        }
+    }
+
+    @Override
+    public final boolean matches(String line) {
+        return parse(line) != MALFORMED;
+    }
+
+    @Override
+    public final long toMillis(String line) {
+        var millis = parse(line);
+        if (millis == MALFORMED) {
+            throw new IllegalStateException("Malformed %s: [%s]".formatted(name, line));
+        }
+        return millis;
+    }
+
+    static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    static long appendDigit(long value, char digit) {
+        return Math.addExact(Math.multiplyExact(value, 10L), digit - '0');
+    }
+}
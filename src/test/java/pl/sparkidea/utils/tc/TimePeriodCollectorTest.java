@@ -7,6 +7,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TimePeriodCollectorTest {
 
@@ -24,4 +25,29 @@ class TimePeriodCollectorTest {
 
         assertEquals(TimePeriod.from("-20m"), actualTp);
     }
+
+    @Test
+    void collect_shouldAddIsoDurationsAndSecondPrecisionSpans_whenStreamGiven() throws IOException {
+
+        var resourceStream = new ByteArrayInputStream("""
+                PT7H30M
+                08:59:30-17:02:10
+                -PT2.5S
+                12:00:00.500 - 12:00:03
+                """.getBytes());
+        var actualTp = new TimePeriodCollector().collect(resourceStream);
+
+        assertEquals(TimePeriod.from("15h 32m 40s"), actualTp);
+    }
+
+    @Test
+    void collect_shouldThrow_whenLineUnrecognized() {
+
+        var resourceStream = new ByteArrayInputStream("""
+                5m
+                five minutes
+                """.getBytes());
+
+        assertThrows(IllegalStateException.class, () -> new TimePeriodCollector().collect(resourceStream));
+    }
 }
@@ -0,0 +1,53 @@
+package pl.sparkidea.utils.tc.format;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.sparkidea.utils.tc.lib.DayTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DayTimeSpanFormatTest {
+
+    private final DayTimeSpanFormat format = new DayTimeSpanFormat();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "18:35-19:40                    | 18:35        | 19:40",
+            "18:35 - 19:40                  | 18:35        | 19:40",
+            "9:5-10:00                      | 9:5          | 10:00",
+            "19:40-18:35                    | 19:40        | 18:35",
+            "08:59:30-17:02:10              | 08:59:30     | 17:02:10",
+            "08:59-17:02:10                 | 08:59        | 17:02:10",
+            "08:59:30.250 - 17:02:10.125    | 08:59:30.250 | 17:02:10.125",
+            "00:00-23:59:59.999             | 00:00        | 23:59:59.999",
+    })
+    void toMillis_shouldAgreeWithDayTimeDiff(String givenString, String start, String stop) {
+        var expected = DayTime.from(start).diff(DayTime.from(stop)).toMillis();
+
+        assertTrue(format.matches(givenString));
+        assertEquals(expected, format.toMillis(givenString));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "18:35",
+            "18:35-",
+            "-19:40",
+            "18-19:40",
+            "18:35-19:40-20:00",
+            "24:00-01:00",
+            "18:60-19:00",
+            "18:35:60-19:00",
+            "18:35:00.12-19:00",
+            "18:35:00.1234-19:00",
+            "18:35.000-19:00",
+            "118:35-19:00",
+            "18:35 -\t19:40",
+    })
+    void toMillis_shouldRejectMalformedStrings(String givenString) {
+        assertFalse(format.matches(givenString));
+        assertThrows(IllegalStateException.class, () -> format.toMillis(givenString));
+    }
+}
@@ -0,0 +1,71 @@
+package pl.sparkidea.utils.tc.format;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsoDurationFormatTest {
+
+    private final IsoDurationFormat format = new IsoDurationFormat();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "PT7H30M",
+            "PT0S",
+            "PT45S",
+            "PT0.5S",
+            "PT1.123456789S",
+            "PT2,25S",
+            "P2D",
+            "P1DT2H3M4.005S",
+            "-PT7H30M",
+            "+PT15M",
+            "pt1h",
+            "PT1.S",
+            "P-1DT+2H-3M",
+            "PT-6H3M",
+            "-PT-0.5S",
+            "+P+1D",
+            "-PT0.0005S",
+            "PT-1.0000001S",
+            "PT1H-0.0005S",
+            "-PT1H0.0005S",
+            "PT106751991167H",
+    })
+    void toMillis_shouldAgreeWithDurationParse(String givenString) {
+        assertTrue(format.matches(givenString));
+        assertEquals(Duration.parse(givenString).toMillis(), format.toMillis(givenString));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "P",
+            "PT",
+            "P1DT",
+            "7H",
+            "PT7H30",
+            "PT30M7H",
+            "PT1D",
+            "P1H",
+            "PT1.5H",
+            "PT1.0123456789S",
+            "PT.5S",
+            "PT--1H",
+            "P-T1H",
+            "PT3000000000000000H",
+            "PT9999999999999999999H",
+            "PT9223372036854775807S",
+            "P106751991168D",
+            "P1W",
+            "PTT1H",
+            "-",
+    })
+    void toMillis_shouldRejectMalformedStrings(String givenString) {
+        assertFalse(format.matches(givenString));
+        assertThrows(IllegalStateException.class, () -> format.toMillis(givenString));
+    }
+}
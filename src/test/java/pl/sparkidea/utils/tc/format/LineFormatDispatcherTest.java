@@ -0,0 +1,84 @@
+package pl.sparkidea.utils.tc.format;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineFormatDispatcherTest {
+
+    private static final LineFormat MINUTES_WORD = new LineFormat() {
+        @Override
+        public boolean matches(String line) {
+            return line.endsWith(" min");
+        }
+
+        @Override
+        public long toMillis(String line) {
+            return Long.parseLong(line.substring(0, line.length() - 4)) * 60_000L;
+        }
+    };
+
+    @ParameterizedTest
+    @CsvSource({
+            "5m,                    300000",
+            "-3h,                   -10800000",
+            "18:35- 19:40,          3900000",
+            "08:59:30-17:02:10,     28960000",
+            "08:00:00.500-08:00:01, 500",
+            "PT7H30M,               27000000",
+            "-PT1M,                 -60000",
+            "+PT1S,                 1000",
+    })
+    void toMillis_shouldDispatchToBuiltInFormat(String givenString, long expectedMillis) {
+        var dispatcher = new LineFormatDispatcher();
+
+        assertTrue(dispatcher.matches(givenString));
+        assertEquals(expectedMillis, dispatcher.toMillis(givenString));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "5 min", "-", "18:35", "P"})
+    void toMillis_shouldRejectUnrecognizedLines(String givenString) {
+        var dispatcher = new LineFormatDispatcher();
+
+        assertFalse(dispatcher.matches(givenString));
+        var exception = assertThrows(IllegalStateException.class, () -> dispatcher.toMillis(givenString));
+        assertEquals("Unrecognized pattern: [%s]".formatted(givenString), exception.getMessage());
+    }
+
+    @Test
+    void toMillis_shouldFallBackToAdditionalFormats_whenNoBuiltInMatches() {
+        var dispatcher = new LineFormatDispatcher(List.of(MINUTES_WORD));
+
+        assertEquals(300_000L, dispatcher.toMillis("5 min"));
+        assertEquals(300_000L, dispatcher.toMillis("5m"));
+    }
+
+    @Test
+    void toMillis_shouldNotConsultAdditionalFormats_whenBuiltInMatches() {
+        var calls = new AtomicInteger();
+        var dispatcher = new LineFormatDispatcher(List.of(new LineFormat() {
+            @Override
+            public boolean matches(String line) {
+                calls.incrementAndGet();
+                return false;
+            }
+
+            @Override
+            public long toMillis(String line) {
+                calls.incrementAndGet();
+                return 0L;
+            }
+        }));
+
+        assertEquals(300_000L, dispatcher.toMillis("5m"));
+        assertEquals(27_000_000L, dispatcher.toMillis("PT7H30M"));
+        assertEquals(0, calls.get());
+    }
+}
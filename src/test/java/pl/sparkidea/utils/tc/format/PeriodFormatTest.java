@@ -0,0 +1,26 @@
+package pl.sparkidea.utils.tc.format;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.sparkidea.utils.tc.lib.TimePeriod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PeriodFormatTest {
+
+    private final PeriodFormat format = new PeriodFormat();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"5m", "-3h", "1h30m", "1d3h6m8s", "2y1M", "3h1d8s6m", "0m"})
+    void toMillis_shouldAgreeWithTimePeriodParser(String givenString) {
+        assertTrue(format.matches(givenString));
+        assertEquals(TimePeriod.from(givenString).millis(), format.toMillis(givenString));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "m", "5", "1h30", "5min", "5 m", "-PT5M", "5x", "99999999999999999999m", "9223372036854775807s", "300000000y"})
+    void toMillis_shouldRejectMalformedStrings(String givenString) {
+        assertFalse(format.matches(givenString));
+        assertThrows(IllegalStateException.class, () -> format.toMillis(givenString));
+    }
+}